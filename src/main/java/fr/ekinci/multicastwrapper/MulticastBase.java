@@ -4,7 +4,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.net.Inet4Address;
+import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
@@ -14,7 +14,11 @@ import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.MembershipKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -29,6 +33,13 @@ import static java.util.Objects.nonNull;
  * 
  * Note : This class uses {@link java.nio.channels.DatagramChannel} (not {@link java.nio.channels.MulticastChannel} )
  * Reminder: This class may not work correctly if you are NOT working in a LAN (Local Area Network)
+ *
+ * Both IPv4 and IPv6 multicast groups are supported, the protocol family is deduced from the group address.
+ * Source filtering is done by the kernel, either with a source-specific join (only the given senders are received)
+ * or with {@link #blockSource(String)} / {@link #unblockSource(String)} on an any-source join.
+ *
+ * Send, receive and dispatch are recorded as Java Flight Recorder events (see "src/main/jfr/multicast-wrapper.jfc"),
+ * they are only filled and committed when the event is enabled in a running recording.
  * 
  * 
  * @author Gokan EKINCI
@@ -49,7 +60,8 @@ public class MulticastBase implements AutoCloseable {
 
 	/** MulticastChannel and MembershipKey*/
 	protected final DatagramChannel dc;
-	protected final MembershipKey key;
+	protected final MembershipKey key;                               // any-source key, null if source-specific
+	protected final Map<InetAddress, MembershipKey> sourceSpecificKeys;
 
 	/** Network interface name (ex: eth0) and other parameters */
 	protected final NetworkInterface currentMachineNetworkInterface; // example: "eth0";
@@ -76,10 +88,39 @@ public class MulticastBase implements AutoCloseable {
 		int multicastVirtualGroupPort,
 		Consumer<byte[]> consumerCallback,
 		boolean ipMulticastLoop
+	) throws IOException {
+		this(currentMachineNetworkInterface,
+			multicastVirtualGroupIpAddress,
+			multicastVirtualGroupPort,
+			consumerCallback,
+			ipMulticastLoop,
+			List.of());
+	}
+
+	/**
+	 * Create the multicast base object
+	 *
+	 * @param currentMachineNetworkInterface A valid NetworkInterface for multicasting
+	 * @param multicastVirtualGroupIpAddress Multicast Virtual Group IP Address
+	 * @param multicastVirtualGroupPort      Multicast Virtual Group Port
+	 * @param consumerCallback               Consumer
+	 * @param ipMulticastLoop                Accept messages from current machine (set to false for ignoring message from myself)
+	 * @param multicastSourceIpAddresses     Senders to receive from (source-specific join), empty for receiving from any sender
+	 * @throws IOException                   If an error happens
+	 * @throws UnsupportedOperationException If source-specific join is not supported by the OS
+	 */
+	public MulticastBase(
+		NetworkInterface currentMachineNetworkInterface,
+		String multicastVirtualGroupIpAddress,
+		int multicastVirtualGroupPort,
+		Consumer<byte[]> consumerCallback,
+		boolean ipMulticastLoop,
+		List<String> multicastSourceIpAddresses
 	) throws IOException {
 		this.currentMachineNetworkInterface = checkNotNull(currentMachineNetworkInterface, "currentMachineNetworkInterface");
 		this.multicastVirtualGroupIpAddress = checkNotNull(multicastVirtualGroupIpAddress, "multicastVirtualGroupIpAddress");
 		this.multicastVirtualGroupPort = checkPort(multicastVirtualGroupPort);
+		checkNotNull(multicastSourceIpAddresses, "multicastSourceIpAddresses");
 		this.currentMessageListenerThread = nonNull(consumerCallback) ?
 			new Thread(() -> multicastConsumerLoop(consumerCallback)) : null;
 		this.continueLoopInThread = true;
@@ -91,17 +132,48 @@ public class MulticastBase implements AutoCloseable {
 		InetAddress multicastVirtualGroupInetAddress = InetAddress.getByName(multicastVirtualGroupIpAddress);
 		multicastSocketAddress = new InetSocketAddress(multicastVirtualGroupInetAddress, multicastVirtualGroupPort);
 
+		// Multicast Source Addresses (must be resolved before opening the channel)
+		List<InetAddress> multicastSourceInetAddresses = new ArrayList<>();
+		for (String multicastSourceIpAddress : multicastSourceIpAddresses) {
+			multicastSourceInetAddresses.add(toSourceInetAddress(multicastSourceIpAddress));
+		}
+
 		// DatagramChannel initialization
 		dc = createMulticastDatagramChannel(multicastVirtualGroupPort, currentMachineNetworkInterface, ipMulticastLoop);
 
-		// Multicast join
-		key = dc.join(multicastVirtualGroupInetAddress, currentMachineNetworkInterface);
-		log.debug("Current machine '{}' has joined multicast! {} with identityHashCode: '{}' has been instanciated",
+		// Multicast join (closing the channel drops the memberships already joined if one of them fails)
+		MembershipKey anySourceKey = null;
+		Map<InetAddress, MembershipKey> keys = new LinkedHashMap<>();
+		try {
+			if (multicastSourceInetAddresses.isEmpty()) {
+				anySourceKey = dc.join(multicastVirtualGroupInetAddress, currentMachineNetworkInterface);
+			} else {
+				for (InetAddress multicastSourceInetAddress : multicastSourceInetAddresses) {
+					keys.put(multicastSourceInetAddress,
+						dc.join(multicastVirtualGroupInetAddress, currentMachineNetworkInterface, multicastSourceInetAddress));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			closeAfterFailedJoin(e);
+			throw e;
+		}
+		key = anySourceKey;
+		sourceSpecificKeys = Collections.unmodifiableMap(keys);
+		log.debug("Current machine '{}' has joined multicast (sources: {})! {} with identityHashCode: '{}' has been instanciated",
 			currentMachineNetworkInterface.getName(),
+			sourceSpecificKeys.isEmpty() ? "any" : sourceSpecificKeys.keySet(),
 			implClassName,
 			System.identityHashCode(this));
 	}
 
+	private void closeAfterFailedJoin(Exception joinException) {
+		try {
+			dc.close();
+		} catch (IOException e) {
+			joinException.addSuppressed(e);
+		}
+	}
+
 	private <T> T checkNotNull(T param, String name) {
 		if (isNull(param)) {
 			throw new IllegalArgumentException(String.format("'%s' parameter must not be null", name));
@@ -118,11 +190,29 @@ public class MulticastBase implements AutoCloseable {
 		return port;
 	}
 
+	private InetAddress toSourceInetAddress(String multicastSourceIpAddress) throws IOException {
+		InetAddress sourceInetAddress = InetAddress.getByName(checkNotNull(multicastSourceIpAddress, "multicastSourceIpAddress"));
+
+		if (sourceInetAddress.isMulticastAddress()
+			|| protocolFamily(sourceInetAddress) != protocolFamily(multicastSocketAddress.getAddress())) {
+			throw new IllegalArgumentException(String.format(
+				"'%s' is not a valid source address for multicast group '%s'",
+				multicastSourceIpAddress,
+				multicastVirtualGroupIpAddress));
+		}
+
+		return sourceInetAddress;
+	}
+
+	private static StandardProtocolFamily protocolFamily(InetAddress inetAddress) {
+		return inetAddress instanceof Inet6Address ? StandardProtocolFamily.INET6 : StandardProtocolFamily.INET;
+	}
+
 	private DatagramChannel createMulticastDatagramChannel(
 		int multicastVirtualGroupPort,
 		NetworkInterface currentMachineNetworkInterface,
 		boolean ipMulticastLoop) throws IOException {
-		return DatagramChannel.open(StandardProtocolFamily.INET)
+		return DatagramChannel.open(protocolFamily(multicastSocketAddress.getAddress()))
 			.bind(new InetSocketAddress(multicastVirtualGroupPort))
 			.setOption(StandardSocketOptions.SO_REUSEADDR, true)
 			.setOption(StandardSocketOptions.IP_MULTICAST_IF, currentMachineNetworkInterface)
@@ -139,6 +229,51 @@ public class MulticastBase implements AutoCloseable {
 		currentMessageListenerThread.start();
 	}
 
+	/**
+	 * Ask the kernel to drop datagrams coming from the given sender
+	 * Only available when the group has been joined for any source
+	 *
+	 * @param multicastSourceIpAddress      IP address of the sender to block
+	 * @throws IOException                   If an error happens
+	 * @throws UnsupportedOperationException If source filtering is not supported by the OS
+	 * @throws IllegalStateException         If this object has been closed
+	 */
+	public void blockSource(String multicastSourceIpAddress) throws IOException {
+		checkAnySourceKey("blockSource");
+		key.block(toSourceInetAddress(multicastSourceIpAddress));
+		log.debug("{}: source '{}' has been blocked", implClassName, multicastSourceIpAddress);
+	}
+
+	/**
+	 * Receive again datagrams coming from a previously blocked sender (nothing happens if it was not blocked)
+	 * Only available when the group has been joined for any source
+	 *
+	 * @param multicastSourceIpAddress IP address of the sender to unblock
+	 * @throws IOException             If an error happens
+	 * @throws IllegalStateException   If this object has been closed
+	 */
+	public void unblockSource(String multicastSourceIpAddress) throws IOException {
+		checkAnySourceKey("unblockSource");
+		InetAddress multicastSourceInetAddress = toSourceInetAddress(multicastSourceIpAddress);
+
+		try {
+			key.unblock(multicastSourceInetAddress);
+			log.debug("{}: source '{}' has been unblocked", implClassName, multicastSourceIpAddress);
+		} catch (IllegalStateException e) {
+			// MembershipKey#unblock() uses the same exception for an invalid key and for a source that is not blocked
+			if (!key.isValid()) {
+				throw e;
+			}
+			log.debug("{}: source '{}' was not blocked", implClassName, multicastSourceIpAddress);
+		}
+	}
+
+	private void checkAnySourceKey(String methodName) {
+		if (isNull(key)) {
+			throw new IllegalCallerException("You cannot " + methodName + "() if you have joined the group for specific sources");
+		}
+	}
+
 	/**
 	 * Send message to the group
 	 *
@@ -152,7 +287,20 @@ public class MulticastBase implements AutoCloseable {
 			currentMachineNetworkInterface.getName(),
 			message.length);
 		ByteBuffer byteBuffer = ByteBuffer.wrap(message);
-		dc.send(byteBuffer, multicastSocketAddress);
+
+		MulticastSendEvent event = new MulticastSendEvent();
+		event.begin();
+		try {
+			dc.send(byteBuffer, multicastSocketAddress);
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.group = multicastVirtualGroupIpAddress;
+				event.port = multicastVirtualGroupPort;
+				event.bytes = message.length;
+				event.commit();
+			}
+		}
 	}
 
 	private void checkMessage(byte[] message) {
@@ -174,6 +322,15 @@ public class MulticastBase implements AutoCloseable {
 					.map(InetSocketAddress.class::cast)
 					.map(InetSocketAddress::getAddress);
 
+				MulticastReceiveEvent event = new MulticastReceiveEvent();
+				if (event.shouldCommit()) {
+					event.group = multicastVirtualGroupIpAddress;
+					event.port = multicastVirtualGroupPort;
+					event.bytes = receivedByteBuffer.position();
+					event.sender = datagramSendersIp.map(InetAddress::getHostAddress).orElse(null);
+					event.commit();
+				}
+
 				log.debug("{} has received a new message from '{}' on network interface '{}'",
 					implClassName,
 					datagramSendersIp,
@@ -190,7 +347,20 @@ public class MulticastBase implements AutoCloseable {
 		byte[] message = new byte[receivedByteBuffer.position()];
 		receivedByteBuffer.rewind();
 		receivedByteBuffer.get(message);
-		consumerCallback.accept(message);
+
+		MulticastDispatchEvent event = new MulticastDispatchEvent();
+		event.begin();
+		try {
+			consumerCallback.accept(message);
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.group = multicastVirtualGroupIpAddress;
+				event.port = multicastVirtualGroupPort;
+				event.bytes = message.length;
+				event.commit();
+			}
+		}
 	}
 
 	@Override
@@ -211,29 +381,38 @@ public class MulticastBase implements AutoCloseable {
 	/* *** UTIL METHODS *** */
 
 	/**
-	 * @return                 A list of valid network interfaces for multicasting
+	 * @return                 A list of valid network interfaces for IPv4 multicasting
 	 * @throws SocketException If an error happens
 	 */
 	public static List<NetworkInterface> listNetworkInterfaces() throws SocketException {
+		return listNetworkInterfaces(StandardProtocolFamily.INET);
+	}
+
+	/**
+	 * @param protocolFamily   INET for IPv4 groups, INET6 for IPv6 groups
+	 * @return                 A list of valid network interfaces for multicasting with the given protocol family
+	 * @throws SocketException If an error happens
+	 */
+	public static List<NetworkInterface> listNetworkInterfaces(StandardProtocolFamily protocolFamily) throws SocketException {
 		return NetworkInterface.networkInterfaces()
-			.filter(MulticastBase::isValidNetworkInterface)
+			.filter(networkInterface -> isValidNetworkInterface(networkInterface, protocolFamily))
 			.toList();
 	}
 
-	private static boolean isValidNetworkInterface(NetworkInterface networkInterface) {
+	private static boolean isValidNetworkInterface(NetworkInterface networkInterface, StandardProtocolFamily protocolFamily) {
 		try {
 			return networkInterface.isUp()
 				&& networkInterface.supportsMulticast()
-				&& hasIp4(networkInterface);
+				&& hasIp(networkInterface, protocolFamily);
 		} catch (SocketException e) {
 			log.error("An error happened while checking NetworkInterface: '{}'", networkInterface, e);
 			return false;
 		}
 	}
 
-	private static boolean hasIp4(NetworkInterface networkInterface) {
+	private static boolean hasIp(NetworkInterface networkInterface, StandardProtocolFamily protocolFamily) {
 		return networkInterface.inetAddresses()
-			.anyMatch(inetAddress -> inetAddress instanceof Inet4Address);
+			.anyMatch(inetAddress -> protocolFamily(inetAddress) == protocolFamily);
 	}
 
 	/**
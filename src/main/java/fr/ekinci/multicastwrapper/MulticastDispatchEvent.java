@@ -0,0 +1,32 @@
+package fr.ekinci.multicastwrapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event committed by the consumer loop of {@link MulticastBase} after a received message has been dispatched
+ * Its duration is the time spent in the consumer callback
+ *
+ * @author Gokan EKINCI
+ */
+@Name("fr.ekinci.multicastwrapper.Dispatch")
+@Label("Multicast Dispatch")
+@Description("A received message has been given to the consumer callback")
+@Category("Multicast Wrapper")
+class MulticastDispatchEvent extends Event {
+
+	@Label("Group")
+	String group;
+
+	@Label("Port")
+	int port;
+
+	@Label("Bytes")
+	@DataAmount
+	int bytes;
+}
@@ -0,0 +1,35 @@
+package fr.ekinci.multicastwrapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event committed by the consumer loop of {@link MulticastBase} when a datagram is received
+ * This is an instant event, the time spent waiting for the datagram is NOT recorded
+ *
+ * @author Gokan EKINCI
+ */
+@Name("fr.ekinci.multicastwrapper.Receive")
+@Label("Multicast Receive")
+@Description("A datagram has been received from the multicast group")
+@Category("Multicast Wrapper")
+class MulticastReceiveEvent extends Event {
+
+	@Label("Group")
+	String group;
+
+	@Label("Port")
+	int port;
+
+	@Label("Bytes")
+	@DataAmount
+	int bytes;
+
+	@Label("Sender")
+	String sender;
+}
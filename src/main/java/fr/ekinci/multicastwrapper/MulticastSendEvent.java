@@ -0,0 +1,32 @@
+package fr.ekinci.multicastwrapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event committed by {@link MulticastBase#sendMessage(byte[])}
+ * Its duration is the time spent in DatagramChannel#send()
+ *
+ * @author Gokan EKINCI
+ */
+@Name("fr.ekinci.multicastwrapper.Send")
+@Label("Multicast Send")
+@Description("A datagram has been sent to the multicast group")
+@Category("Multicast Wrapper")
+class MulticastSendEvent extends Event {
+
+	@Label("Group")
+	String group;
+
+	@Label("Port")
+	int port;
+
+	@Label("Bytes")
+	@DataAmount
+	int bytes;
+}
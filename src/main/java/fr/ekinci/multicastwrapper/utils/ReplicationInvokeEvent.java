@@ -0,0 +1,30 @@
+package fr.ekinci.multicastwrapper.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event committed by {@link SlaveInvoker#executeReceivedReplicationMessage(Object, MulticastActionMessage)}
+ * Its duration is the time spent for resolving and invoking the replicated method
+ *
+ * @author Gokan EKINCI
+ */
+@Name("fr.ekinci.multicastwrapper.ReplicationInvoke")
+@Label("Replication Invoke")
+@Description("A replicated method has been invoked in a slave node")
+@Category("Multicast Wrapper")
+class ReplicationInvokeEvent extends Event {
+
+	@Label("Invoked Class")
+	String executeClass;
+
+	@Label("Invoked Method")
+	String executeMethod;
+
+	@Label("Succeeded")
+	boolean succeeded;
+}
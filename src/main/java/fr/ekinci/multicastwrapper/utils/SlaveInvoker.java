@@ -70,6 +70,25 @@ public class SlaveInvoker {
 	 * @throws IllegalAccessException
 	 */
 	public static <T> Object executeReceivedReplicationMessage(T objectToInvoke, MulticastActionMessage message) throws ClassNotFoundException, IOException, NoSuchMethodException, SecurityException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		ReplicationInvokeEvent event = new ReplicationInvokeEvent();
+		event.begin();
+		boolean succeeded = false;
+		try {
+			Object result = invokeReceivedReplicationMessage(objectToInvoke, message);
+			succeeded = true;
+			return result;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.executeClass = message.getExecuteClass();
+				event.executeMethod = message.getExecuteMethod();
+				event.succeeded = succeeded;
+				event.commit();
+			}
+		}
+	}
+
+	private static <T> Object invokeReceivedReplicationMessage(T objectToInvoke, MulticastActionMessage message) throws ClassNotFoundException, IOException, NoSuchMethodException, SecurityException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
 
 		// Class to call (1) | Method name to call (2) | Method arguments types and values (3)
 		Class<?> classToCall = Class.forName(message.getExecuteClass()); // 1
@@ -1,16 +1,21 @@
 package fr.ekinci.multicastwrapper;
 
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.net.SocketException;
+import java.net.StandardProtocolFamily;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static fr.ekinci.multicastwrapper.MulticastBase.RECEIVED_MESSAGE_MAX_SIZE;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -22,6 +27,9 @@ import static org.awaitility.Awaitility.await;
 class MulticastBaseTest {
 	static final String MULTICAST_IP = "224.0.0.1";
 	static final int MULTICAST_PORT = 14725;
+	static final String IPV6_MULTICAST_IP = "ff02::1";
+	static final String SOURCE_SPECIFIC_MULTICAST_IP = "232.1.1.1";
+	static final String UNKNOWN_SOURCE_IP = "10.255.255.1";
 	final byte[] messageToSend = new byte[]{0x41, 0x42, 0x43};
 
 	@Test
@@ -62,6 +70,79 @@ class MulticastBaseTest {
 		}
 	}
 
+	@Test
+	void launchConsumer_sendMessage_ipv6_nominal() throws IOException {
+		// GIVEN
+		boolean ipMulticastLoop = true;
+		List<byte[]> container = new CopyOnWriteArrayList<>();
+		NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces(StandardProtocolFamily.INET6)
+			.stream()
+			.findAny()
+			.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+		try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				IPV6_MULTICAST_IP,
+				MULTICAST_PORT,
+				container::add,
+				ipMulticastLoop)) {
+			// WHEN
+			multicastBase.launchConsumer();
+			multicastBase.sendMessage(messageToSend);
+
+			// THEN
+			await().atMost(5, SECONDS).until(() -> !container.isEmpty());
+			assertThat(container).hasSize(1);
+			assertThat(container.get(0)).isEqualTo(messageToSend);
+		}
+	}
+
+	@Test
+	void launchConsumer_sendMessage_records_jfr_events() throws IOException {
+		// GIVEN
+		boolean ipMulticastLoop = true;
+		List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+		NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+			.stream()
+			.findAny()
+			.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+		try (RecordingStream recordingStream = new RecordingStream()) {
+			recordingStream.enable("fr.ekinci.multicastwrapper.Send");
+			recordingStream.enable("fr.ekinci.multicastwrapper.Receive");
+			recordingStream.enable("fr.ekinci.multicastwrapper.Dispatch");
+			recordingStream.onEvent(events::add);
+			recordingStream.startAsync();
+
+			try (MulticastBase multicastBase = new MulticastBase(
+					networkInterface,
+					MULTICAST_IP,
+					MULTICAST_PORT,
+					message -> {},
+					ipMulticastLoop)) {
+				// WHEN
+				multicastBase.launchConsumer();
+				multicastBase.sendMessage(messageToSend);
+
+				// Dispatch is the last event, it is committed once the callback has returned
+				await().atMost(10, SECONDS).until(() -> events.stream()
+					.anyMatch(event -> event.getEventType().getName().equals("fr.ekinci.multicastwrapper.Dispatch")));
+			}
+		}
+
+		// THEN
+		assertThat(events)
+			.extracting(event -> event.getEventType().getName())
+			.contains(
+				"fr.ekinci.multicastwrapper.Send",
+				"fr.ekinci.multicastwrapper.Receive",
+				"fr.ekinci.multicastwrapper.Dispatch");
+		assertThat(events)
+			.allSatisfy(event -> {
+				assertThat(event.getString("group")).isEqualTo(MULTICAST_IP);
+				assertThat(event.getInt("bytes")).isEqualTo(messageToSend.length);
+			});
+	}
+
 	@Test
 	void hasInetAddress_nominal() throws SocketException {
 		// GIVEN
@@ -107,6 +188,14 @@ class MulticastBaseTest {
 		return networkInterface.inetAddresses().findFirst();
 	}
 
+	private String extractFirstInetAddress(NetworkInterface networkInterface, Class<? extends InetAddress> inetAddressClass) {
+		return networkInterface.inetAddresses()
+			.filter(inetAddressClass::isInstance)
+			.findFirst()
+			.map(InetAddress::getHostAddress)
+			.orElseThrow(() -> new RuntimeException("inetAddress is empty!"));
+	}
+
 	@Nested
 	class CheckMandatoryParametersTest {
 		@Test
@@ -211,4 +300,195 @@ class MulticastBaseTest {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class SourceFilteringTest {
+		@Test
+		void blockSource_unblockSource_nominal() throws IOException {
+			// GIVEN
+			boolean ipMulticastLoop = true;
+			List<byte[]> container = new CopyOnWriteArrayList<>();
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+			String currentMachineIp = extractFirstInetAddress(networkInterface, Inet4Address.class);
+
+			try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				MULTICAST_IP,
+				MULTICAST_PORT,
+				container::add,
+				ipMulticastLoop)) {
+				multicastBase.launchConsumer();
+
+				// WHEN (my own datagrams are blocked)
+				multicastBase.blockSource(currentMachineIp);
+				multicastBase.sendMessage(messageToSend);
+
+				// THEN
+				await().during(2, SECONDS).atMost(3, SECONDS).until(container::isEmpty);
+
+				// WHEN (my own datagrams are received again)
+				multicastBase.unblockSource(currentMachineIp);
+				multicastBase.sendMessage(messageToSend);
+
+				// THEN
+				await().atMost(5, SECONDS).until(() -> !container.isEmpty());
+				assertThat(container).hasSize(1);
+				assertThat(container.get(0)).isEqualTo(messageToSend);
+			}
+		}
+
+		@Test
+		void sourceSpecificJoin_sendMessage_nominal() throws IOException {
+			// GIVEN
+			boolean ipMulticastLoop = true;
+			List<byte[]> container = new CopyOnWriteArrayList<>();
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+			String currentMachineIp = extractFirstInetAddress(networkInterface, Inet4Address.class);
+
+			try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				SOURCE_SPECIFIC_MULTICAST_IP,
+				MULTICAST_PORT,
+				container::add,
+				ipMulticastLoop,
+				List.of(currentMachineIp))) {
+				// WHEN
+				multicastBase.launchConsumer();
+				multicastBase.sendMessage(messageToSend);
+
+				// THEN
+				await().atMost(5, SECONDS).until(() -> !container.isEmpty());
+				assertThat(container).hasSize(1);
+				assertThat(container.get(0)).isEqualTo(messageToSend);
+			}
+		}
+
+		@Test
+		void sourceSpecificJoin_ignores_other_sources() throws IOException {
+			// GIVEN
+			boolean ipMulticastLoop = true;
+			List<byte[]> container = new CopyOnWriteArrayList<>();
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+			try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				SOURCE_SPECIFIC_MULTICAST_IP,
+				MULTICAST_PORT,
+				container::add,
+				ipMulticastLoop,
+				List.of(UNKNOWN_SOURCE_IP))) {
+				// WHEN
+				multicastBase.launchConsumer();
+				multicastBase.sendMessage(messageToSend);
+
+				// THEN
+				await().during(2, SECONDS).atMost(3, SECONDS).until(container::isEmpty);
+			}
+		}
+
+		@Test
+		void unblockSource_does_nothing_when_source_is_not_blocked() throws IOException {
+			// GIVEN
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+			try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				MULTICAST_IP,
+				MULTICAST_PORT,
+				null,
+				false)) {
+				// WHEN
+				multicastBase.unblockSource(UNKNOWN_SOURCE_IP);
+
+				// THEN (the source can still be blocked and unblocked)
+				multicastBase.blockSource(UNKNOWN_SOURCE_IP);
+				multicastBase.unblockSource(UNKNOWN_SOURCE_IP);
+			}
+		}
+
+		@Test
+		void blockSource_unblockSource_error_when_closed() throws IOException {
+			// GIVEN
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+			MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				MULTICAST_IP,
+				MULTICAST_PORT,
+				null,
+				false);
+			multicastBase.close();
+
+			// THEN
+			assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> {
+					multicastBase.blockSource(UNKNOWN_SOURCE_IP);
+				});
+			assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> {
+					multicastBase.unblockSource(UNKNOWN_SOURCE_IP);
+				});
+		}
+
+		@Test
+		void blockSource_error_when_group_is_joined_for_specific_sources() throws IOException {
+			// GIVEN
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+			try (MulticastBase multicastBase = new MulticastBase(
+				networkInterface,
+				SOURCE_SPECIFIC_MULTICAST_IP,
+				MULTICAST_PORT,
+				null,
+				false,
+				List.of(UNKNOWN_SOURCE_IP))) {
+				// THEN
+				assertThat(multicastBase.key).isNull();
+				assertThat(multicastBase.sourceSpecificKeys).hasSize(1);
+				assertThatExceptionOfType(IllegalCallerException.class)
+					.isThrownBy(() -> {
+						multicastBase.blockSource(UNKNOWN_SOURCE_IP);
+					}).withMessage("You cannot blockSource() if you have joined the group for specific sources");
+			}
+		}
+
+		@Test
+		void constructor_error_when_source_is_a_multicast_address() throws IOException {
+			// GIVEN
+			NetworkInterface networkInterface = MulticastBase.listNetworkInterfaces()
+				.stream()
+				.findAny()
+				.orElseThrow(() -> new RuntimeException("networkInterface is empty!"));
+
+			// THEN
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> {
+					new MulticastBase(
+						networkInterface,
+						SOURCE_SPECIFIC_MULTICAST_IP,
+						MULTICAST_PORT,
+						null,
+						false,
+						List.of(MULTICAST_IP));
+				}).withMessage("'224.0.0.1' is not a valid source address for multicast group '232.1.1.1'");
+		}
+	}
+}
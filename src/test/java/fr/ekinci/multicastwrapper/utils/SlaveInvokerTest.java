@@ -0,0 +1,103 @@
+package fr.ekinci.multicastwrapper.utils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+
+class SlaveInvokerTest {
+	static final String REPLICATION_INVOKE_EVENT = "fr.ekinci.multicastwrapper.ReplicationInvoke";
+
+	@Test
+	void executeReceivedReplicationMessage_records_jfr_event() throws Exception {
+		// GIVEN
+		MulticastActionMessage message = createMessage("greet", new TypeAndValue(String.class, "World"));
+
+		// WHEN
+		List<RecordedEvent> events = recordReplicationInvokeEvents(() -> {
+			Object result = SlaveInvoker.executeReceivedReplicationMessage(new ReplicatedService(), message);
+			assertThat(result).isEqualTo("Hello World");
+		});
+
+		// THEN
+		assertThat(events).hasSize(1);
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("executeClass")).isEqualTo(ReplicatedService.class.getName());
+		assertThat(event.getString("executeMethod")).isEqualTo("greet");
+		assertThat(event.getBoolean("succeeded")).isTrue();
+		assertThat(event.getDuration()).isPositive();
+	}
+
+	@Test
+	void executeReceivedReplicationMessage_records_jfr_event_when_invoked_method_throws() throws Exception {
+		// GIVEN
+		MulticastActionMessage message = createMessage("fail");
+
+		// WHEN
+		List<RecordedEvent> events = recordReplicationInvokeEvents(() -> {
+			assertThatExceptionOfType(InvocationTargetException.class)
+				.isThrownBy(() -> SlaveInvoker.executeReceivedReplicationMessage(new ReplicatedService(), message))
+				.withCauseInstanceOf(IllegalStateException.class);
+		});
+
+		// THEN
+		assertThat(events).hasSize(1);
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("executeClass")).isEqualTo(ReplicatedService.class.getName());
+		assertThat(event.getString("executeMethod")).isEqualTo("fail");
+		assertThat(event.getBoolean("succeeded")).isFalse();
+		assertThat(event.getDuration()).isPositive();
+	}
+
+	private MulticastActionMessage createMessage(String executeMethod, TypeAndValue... args) throws IOException {
+		MulticastActionMessage message = new MulticastActionMessage();
+		message.setExecuteClass(ReplicatedService.class.getName());
+		message.setExecuteMethod(executeMethod);
+		message.setStringifiedTypeAndValueArray(SlaveInvoker.encodeBase64(args));
+		return message;
+	}
+
+	private List<RecordedEvent> recordReplicationInvokeEvents(ThrowingRunnable runnable) throws Exception {
+		Path recordingPath = Files.createTempFile("multicast-wrapper", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable(REPLICATION_INVOKE_EVENT);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(recordingPath);
+
+			return RecordingFile.readAllEvents(recordingPath)
+				.stream()
+				.filter(event -> event.getEventType().getName().equals(REPLICATION_INVOKE_EVENT))
+				.toList();
+		} finally {
+			Files.deleteIfExists(recordingPath);
+		}
+	}
+
+	@FunctionalInterface
+	interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+
+	public static class ReplicatedService {
+		public String greet(String name) {
+			return "Hello " + name;
+		}
+
+		public void fail() {
+			throw new IllegalStateException("replication failure");
+		}
+	}
+}